@@ -1,22 +1,27 @@
 package com.tickettriage.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
-import java.util.concurrent.Executor;
-
 @Configuration
-@EnableAsync
 public class AsyncConfig {
 
+    @Value("${spring.processor.threads:10}")
+    private int processorThreads;
+
+    /**
+     * FairShareTicketScheduler hands over at most one ticket per thread, so the
+     * pool is fixed-size. The small queue only covers the moment between a task
+     * releasing its slot and its thread becoming idle.
+     */
     @Bean(name = "ticketProcessorExecutor")
-    public Executor ticketProcessorExecutor() {
+    public ThreadPoolTaskExecutor ticketProcessorExecutor() {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(10);
-        executor.setMaxPoolSize(50);
-        executor.setQueueCapacity(100);
+        executor.setCorePoolSize(processorThreads);
+        executor.setMaxPoolSize(processorThreads);
+        executor.setQueueCapacity(processorThreads);
         executor.setThreadNamePrefix("ticket-processor-");
         executor.setWaitForTasksToCompleteOnShutdown(true);
         executor.setAwaitTerminationSeconds(60);
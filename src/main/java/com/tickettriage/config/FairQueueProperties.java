@@ -0,0 +1,53 @@
+package com.tickettriage.config;
+
+import com.tickettriage.model.Ticket;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Per-tenant weights and quotas for the fair-share classification scheduler.
+ * A tenant with weight 3 gets three dispatches per round for every one a
+ * weight-1 tenant gets, as long as both have tickets waiting.
+ * <p>
+ * Only tenants listed in {@code tenants} (or given a weight or quota) get their
+ * own queue. Any other tenant ID shares the default tenant's queue, so a client
+ * cannot gain capacity by inventing new IDs.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "spring.fair-queue")
+public class FairQueueProperties {
+
+    private int defaultWeight = 1;
+    private int defaultQuota = 200; // Max tickets waiting per tenant
+    private int maxQueued = 1000; // Max tickets waiting across all tenants
+    private Map<String, Integer> weights = new HashMap<>();
+    private Map<String, Integer> quotas = new HashMap<>();
+    private Set<String> tenants = new HashSet<>(); // Tenants allowed their own queue
+    private long idleEvictionMinutes = 10; // Drop stats for tenants idle this long
+
+    /**
+     * Maps a client-supplied tenant ID to the queue it is billed against.
+     */
+    public String resolveTenant(String requested) {
+        if (requested == null || requested.isBlank()) {
+            return Ticket.DEFAULT_TENANT;
+        }
+        boolean known = tenants.contains(requested) || weights.containsKey(requested) || quotas.containsKey(requested);
+        return known ? requested : Ticket.DEFAULT_TENANT;
+    }
+
+    public int weightFor(String tenantId) {
+        return Math.max(1, weights.getOrDefault(tenantId, defaultWeight));
+    }
+
+    public int quotaFor(String tenantId) {
+        return quotas.getOrDefault(tenantId, defaultQuota);
+    }
+}
@@ -3,6 +3,7 @@ package com.tickettriage.config;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import okhttp3.Dispatcher;
 import okhttp3.OkHttpClient;
 
 import java.util.concurrent.TimeUnit;
@@ -22,6 +23,12 @@ public class GeminiConfig {
     @Value("${spring.gemini.max-tokens:1000}")
     private int maxTokens;
 
+    @Value("${spring.processor.threads:10}")
+    private int processorThreads;
+
+    @Value("${spring.gemini.hedging.max-rate:0.05}")
+    private double hedgeMaxRate;
+
     @Bean
     public String geminiApiKey() {
         return apiKey;
@@ -42,9 +49,20 @@ public class GeminiConfig {
         return maxTokens;
     }
 
+    /**
+     * Every Gemini call goes to one host, so the dispatcher's per-host limit
+     * (default 5) must cover one call per processor thread plus hedges.
+     * Otherwise calls wait in OkHttp's queue before they are sent.
+     */
     @Bean
     public OkHttpClient okHttpClient() {
+        int maxInFlight = (int) Math.ceil(processorThreads * (1 + hedgeMaxRate)) + 1;
+        Dispatcher dispatcher = new Dispatcher();
+        dispatcher.setMaxRequestsPerHost(maxInFlight);
+        dispatcher.setMaxRequests(Math.max(dispatcher.getMaxRequests(), maxInFlight));
+
         return new OkHttpClient.Builder()
+                .dispatcher(dispatcher)
                 .connectTimeout(30, TimeUnit.SECONDS)
                 .readTimeout(30, TimeUnit.SECONDS)
                 .writeTimeout(30, TimeUnit.SECONDS)
@@ -0,0 +1,26 @@
+package com.tickettriage.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+@Configuration
+public class ReactiveConfig {
+
+    @Value("${spring.intake.threads:16}")
+    private int threads;
+
+    @Value("${spring.intake.queue-capacity:1000}")
+    private int queueCapacity;
+
+    /**
+     * Bounded bridge for the blocking JPA calls behind the reactive endpoints.
+     * Once all threads are busy and the queue is full, new work is rejected.
+     */
+    @Bean(destroyMethod = "dispose")
+    public Scheduler ticketIntakeScheduler() {
+        return Schedulers.newBoundedElastic(threads, queueCapacity, "ticket-intake");
+    }
+}
@@ -0,0 +1,55 @@
+package com.tickettriage.controller;
+
+import com.tickettriage.exception.ArchiveInProgressException;
+import com.tickettriage.exception.ClassificationQueueFullException;
+import com.tickettriage.exception.IntakeSaturatedException;
+import com.tickettriage.exception.TicketNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.util.Map;
+
+@RestControllerAdvice
+@Slf4j
+public class ApiExceptionHandler {
+
+    @Value("${spring.intake.retry-after-seconds:2}")
+    private int retryAfterSeconds;
+
+    /**
+     * Pushes back on clients when the classification queue is saturated.
+     */
+    @ExceptionHandler(ClassificationQueueFullException.class)
+    public ResponseEntity<Map<String, String>> handleQueueFull(ClassificationQueueFullException e) {
+        log.warn("Rejecting ticket submission: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                .body(Map.of("error", e.getMessage()));
+    }
+
+    /**
+     * Pushes back on clients when the reactive intake scheduler is saturated.
+     */
+    @ExceptionHandler(IntakeSaturatedException.class)
+    public ResponseEntity<Map<String, String>> handleIntakeSaturated(IntakeSaturatedException e) {
+        log.warn("Rejecting request: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                .body(Map.of("error", e.getMessage()));
+    }
+
+    @ExceptionHandler(TicketNotFoundException.class)
+    public ResponseEntity<Map<String, String>> handleTicketNotFound(TicketNotFoundException e) {
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of("error", e.getMessage()));
+    }
+
+    @ExceptionHandler(ArchiveInProgressException.class)
+    public ResponseEntity<Map<String, String>> handleArchiveInProgress(ArchiveInProgressException e) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("error", e.getMessage()));
+    }
+}
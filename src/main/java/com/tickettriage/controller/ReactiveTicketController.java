@@ -0,0 +1,70 @@
+package com.tickettriage.controller;
+
+import com.tickettriage.dto.TicketRequest;
+import com.tickettriage.dto.TicketResponse;
+import com.tickettriage.exception.IntakeSaturatedException;
+import com.tickettriage.service.TicketService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Non-blocking variant of the intake endpoints. The servlet thread is released
+ * as soon as the request is parsed; the JPA work runs on the bounded
+ * ticket-intake scheduler. Saturation of either that scheduler or the
+ * classification queue is returned to the client as 429 with Retry-After.
+ */
+@RestController
+@RequestMapping("/api/reactive/tickets")
+@RequiredArgsConstructor
+@Tag(name = "Reactive Ticket Intake", description = "Non-blocking ticket submission and lookup with backpressure")
+public class ReactiveTicketController {
+
+    private final TicketService ticketService;
+    private final Scheduler ticketIntakeScheduler;
+
+    @PostMapping
+    @Operation(summary = "Create a new ticket (non-blocking)", description = "Same as POST /api/tickets, but returns 429 with Retry-After when the pipeline is saturated.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Ticket created successfully", content = @Content(schema = @Schema(implementation = TicketResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid request data"),
+            @ApiResponse(responseCode = "429", description = "Classification queue is full, retry later")
+    })
+    public Mono<ResponseEntity<TicketResponse>> createTicket(
+            @Parameter(description = "Ticket details including subject and description", required = true) @Valid @RequestBody TicketRequest request) {
+        return Mono.fromCallable(() -> ticketService.createTicket(request))
+                .subscribeOn(ticketIntakeScheduler)
+                .onErrorMap(RejectedExecutionException.class,
+                        e -> new IntakeSaturatedException("Ticket intake queue is full", e))
+                .map(ticket -> ResponseEntity.status(HttpStatus.CREATED).body(TicketResponse.from(ticket)));
+    }
+
+    @GetMapping("/{id}")
+    @Operation(summary = "Get ticket by ID (non-blocking)", description = "Same as GET /api/tickets/{id}, served from the bounded intake scheduler")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Ticket found", content = @Content(schema = @Schema(implementation = TicketResponse.class))),
+            @ApiResponse(responseCode = "404", description = "Ticket not found"),
+            @ApiResponse(responseCode = "429", description = "Intake scheduler is saturated, retry later")
+    })
+    public Mono<ResponseEntity<TicketResponse>> getTicket(
+            @Parameter(description = "Ticket ID", required = true, example = "1") @PathVariable Long id) {
+        return Mono.fromCallable(() -> ticketService.getTicketById(id))
+                .subscribeOn(ticketIntakeScheduler)
+                .onErrorMap(RejectedExecutionException.class,
+                        e -> new IntakeSaturatedException("Ticket intake queue is full", e))
+                .map(ticket -> ResponseEntity.ok(TicketResponse.from(ticket)));
+    }
+}
@@ -1,12 +1,19 @@
 package com.tickettriage.controller;
 
+import com.tickettriage.dto.ArchiveStatsResponse;
+import com.tickettriage.dto.ModelStatsResponse;
+import com.tickettriage.dto.TenantStatsResponse;
 import com.tickettriage.dto.TicketRequest;
 import com.tickettriage.dto.TicketResponse;
 import com.tickettriage.dto.TicketStatsResponse;
 import com.tickettriage.model.Ticket;
+import com.tickettriage.service.FairShareTicketScheduler;
+import com.tickettriage.service.ModelLatencyTracker;
+import com.tickettriage.service.TicketArchiveService;
 import com.tickettriage.service.TicketService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -20,6 +27,8 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @RestController
@@ -30,6 +39,9 @@ import java.util.stream.Collectors;
 public class TicketController {
 
     private final TicketService ticketService;
+    private final ModelLatencyTracker modelLatencyTracker;
+    private final TicketArchiveService ticketArchiveService;
+    private final FairShareTicketScheduler fairShareScheduler;
 
     /**
      * Submit a new support ticket.
@@ -43,7 +55,7 @@ public class TicketController {
     })
     public ResponseEntity<TicketResponse> createTicket(
             @Parameter(description = "Ticket details including subject and description", required = true) @Valid @RequestBody TicketRequest request) {
-        log.info("Received ticket creation request: {}", request.getSubject());
+        log.debug("Received ticket creation request: {}", request.getSubject());
         Ticket ticket = ticketService.createTicket(request);
         return ResponseEntity.status(HttpStatus.CREATED).body(TicketResponse.from(ticket));
     }
@@ -65,14 +77,16 @@ public class TicketController {
 
     /**
      * Get all tickets with optional filters.
+     * {@code fields} limits each ticket to the named properties to keep large lists small.
      */
     @GetMapping
     @Operation(summary = "List all tickets", description = "Retrieve all tickets with optional filtering by status, category, or priority")
-    @ApiResponse(responseCode = "200", description = "List of tickets retrieved successfully")
-    public ResponseEntity<List<TicketResponse>> getAllTickets(
+    @ApiResponse(responseCode = "200", description = "List of tickets retrieved successfully", content = @Content(array = @ArraySchema(schema = @Schema(implementation = TicketResponse.class))))
+    public ResponseEntity<List<?>> getAllTickets(
             @Parameter(description = "Filter by ticket status", example = "CLASSIFIED") @RequestParam(required = false) Ticket.TicketStatus status,
             @Parameter(description = "Filter by category", example = "BUG") @RequestParam(required = false) Ticket.Category category,
-            @Parameter(description = "Filter by priority", example = "HIGH") @RequestParam(required = false) Ticket.Priority priority) {
+            @Parameter(description = "Filter by priority", example = "HIGH") @RequestParam(required = false) Ticket.Priority priority,
+            @Parameter(description = "Comma-separated fields to return (default: all)", example = "id,subject,status,priority") @RequestParam(required = false) Set<String> fields) {
 
         List<Ticket> tickets;
 
@@ -90,6 +104,12 @@ public class TicketController {
                 .map(TicketResponse::from)
                 .collect(Collectors.toList());
 
+        if (fields != null && !fields.isEmpty()) {
+            return ResponseEntity.ok(responses.stream()
+                    .map(response -> response.toFieldMap(fields))
+                    .collect(Collectors.toList()));
+        }
+
         return ResponseEntity.ok(responses);
     }
 
@@ -100,4 +120,37 @@ public class TicketController {
     public ResponseEntity<TicketStatsResponse> getStatistics() {
         return ResponseEntity.ok(ticketService.getStatistics());
     }
+
+    /**
+     * Get per-model latency and cost statistics used for routing.
+     */
+    @GetMapping("/stats/models")
+    public ResponseEntity<Map<String, ModelStatsResponse>> getModelStatistics() {
+        return ResponseEntity.ok(modelLatencyTracker.snapshot());
+    }
+
+    /**
+     * Get per-tenant classification queue depth and wait times.
+     */
+    @GetMapping("/stats/tenants")
+    public ResponseEntity<Map<String, TenantStatsResponse>> getTenantStatistics() {
+        return ResponseEntity.ok(fairShareScheduler.snapshot());
+    }
+
+    /**
+     * Get hot/archive table sizes and the results of the last archival run.
+     */
+    @GetMapping("/stats/archive")
+    public ResponseEntity<ArchiveStatsResponse> getArchiveStatistics() {
+        return ResponseEntity.ok(ticketArchiveService.getArchiveStats());
+    }
+
+    /**
+     * Archive old CLASSIFIED tickets now instead of waiting for the scheduled run.
+     * Returns 409 if a run is already in progress.
+     */
+    @PostMapping("/archive")
+    public ResponseEntity<ArchiveStatsResponse> archiveTickets() {
+        return ResponseEntity.ok(ticketArchiveService.archiveOldTickets());
+    }
 }
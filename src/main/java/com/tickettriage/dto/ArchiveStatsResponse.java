@@ -0,0 +1,23 @@
+package com.tickettriage.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArchiveStatsResponse {
+
+    private long hotTickets;
+    private long archivedTickets;
+    private LocalDateTime lastRunAt;
+    private long lastRunArchived;
+    private long lastRunOriginalBytes; // Description bytes before compression
+    private long lastRunCompressedBytes;
+    private long scanLatencyBeforeMicros; // Hot table scan before the last run, best of several
+    private long scanLatencyAfterMicros; // Hot table scan after the last run, best of several
+    private boolean inProgress;
+}
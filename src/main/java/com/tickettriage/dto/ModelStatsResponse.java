@@ -0,0 +1,20 @@
+package com.tickettriage.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ModelStatsResponse {
+
+    private String model;
+    private long requests;
+    private long failures;
+    private long hedgedRequests;
+    private long cancelledRequests; // Hedge losers, sampled as lower-bound latencies
+    private long p50LatencyMs;
+    private long p95LatencyMs;
+    private double estimatedCost; // USD, including cancelled hedge losers
+}
@@ -0,0 +1,21 @@
+package com.tickettriage.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TenantStatsResponse {
+
+    private String tenantId;
+    private int weight;
+    private int quota;
+    private int queued;
+    private long dispatched;
+    private long rejected;
+    private long p50WaitMs; // Time from submission to dispatch
+    private long p95WaitMs;
+    private long maxWaitMs;
+}
@@ -14,4 +14,7 @@ public class TicketRequest {
     @NotBlank(message = "Description is required")
     @Size(max = 5000, message = "Description must not exceed 5000 characters")
     private String description;
+
+    @Size(max = 100, message = "Tenant ID must not exceed 100 characters")
+    private String tenantId; // Optional, defaults to "default"
 }
@@ -4,6 +4,9 @@ import com.tickettriage.model.Ticket;
 import lombok.Data;
 
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
 
 @Data
 public class TicketResponse {
@@ -11,6 +14,7 @@ public class TicketResponse {
     private Long id;
     private String subject;
     private String description;
+    private String tenantId;
     private Ticket.TicketStatus status;
     private Ticket.Category category;
     private Ticket.Priority priority;
@@ -24,6 +28,7 @@ public class TicketResponse {
         response.setId(ticket.getId());
         response.setSubject(ticket.getSubject());
         response.setDescription(ticket.getDescription());
+        response.setTenantId(ticket.getTenantId());
         response.setStatus(ticket.getStatus());
         response.setCategory(ticket.getCategory());
         response.setPriority(ticket.getPriority());
@@ -33,4 +38,30 @@ public class TicketResponse {
         response.setErrorMessage(ticket.getErrorMessage());
         return response;
     }
+
+    /**
+     * Sparse-fieldset view: only the named properties, in declaration order.
+     * Unknown names are ignored.
+     */
+    public Map<String, Object> toFieldMap(Set<String> fields) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        putIfRequested(map, fields, "id", id);
+        putIfRequested(map, fields, "subject", subject);
+        putIfRequested(map, fields, "description", description);
+        putIfRequested(map, fields, "tenantId", tenantId);
+        putIfRequested(map, fields, "status", status);
+        putIfRequested(map, fields, "category", category);
+        putIfRequested(map, fields, "priority", priority);
+        putIfRequested(map, fields, "sentiment", sentiment);
+        putIfRequested(map, fields, "createdAt", createdAt);
+        putIfRequested(map, fields, "updatedAt", updatedAt);
+        putIfRequested(map, fields, "errorMessage", errorMessage);
+        return map;
+    }
+
+    private static void putIfRequested(Map<String, Object> map, Set<String> fields, String name, Object value) {
+        if (fields.contains(name)) {
+            map.put(name, value);
+        }
+    }
 }
@@ -5,15 +5,18 @@ import org.springframework.context.ApplicationEvent;
 
 /**
  * Event published when a new ticket needs to be classified.
- * This event is consumed asynchronously by the AI processor.
+ * This event is queued per tenant by the fair-share scheduler, which hands it
+ * to the AI processor.
  */
 @Getter
 public class TicketClassificationEvent extends ApplicationEvent {
 
     private final Long ticketId;
+    private final String tenantId;
 
-    public TicketClassificationEvent(Object source, Long ticketId) {
+    public TicketClassificationEvent(Object source, Long ticketId, String tenantId) {
         super(source);
         this.ticketId = ticketId;
+        this.tenantId = tenantId;
     }
 }
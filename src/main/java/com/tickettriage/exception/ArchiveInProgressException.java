@@ -0,0 +1,12 @@
+package com.tickettriage.exception;
+
+/**
+ * Thrown when an archival run is requested while another one is still running.
+ * Mapped to 409 Conflict.
+ */
+public class ArchiveInProgressException extends RuntimeException {
+
+    public ArchiveInProgressException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,16 @@
+package com.tickettriage.exception;
+
+/**
+ * Thrown when the classification pipeline cannot accept more tickets.
+ * Mapped to 429 Too Many Requests with a Retry-After header.
+ */
+public class ClassificationQueueFullException extends RuntimeException {
+
+    public ClassificationQueueFullException(String message) {
+        super(message);
+    }
+
+    public ClassificationQueueFullException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
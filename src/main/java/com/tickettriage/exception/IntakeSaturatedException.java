@@ -0,0 +1,12 @@
+package com.tickettriage.exception;
+
+/**
+ * Thrown when the bounded scheduler behind the reactive endpoints has no room
+ * for more work. Mapped to 429 Too Many Requests with a Retry-After header.
+ */
+public class IntakeSaturatedException extends RuntimeException {
+
+    public IntakeSaturatedException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
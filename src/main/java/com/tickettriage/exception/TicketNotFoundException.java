@@ -0,0 +1,12 @@
+package com.tickettriage.exception;
+
+/**
+ * Thrown when a ticket ID is in neither the hot table nor the archive.
+ * Mapped to 404 Not Found.
+ */
+public class TicketNotFoundException extends RuntimeException {
+
+    public TicketNotFoundException(Long id) {
+        super("Ticket not found with ID: " + id);
+    }
+}
@@ -0,0 +1,66 @@
+package com.tickettriage.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * Cold copy of a classified ticket. Keeps the original ID so reads by ID can
+ * fall through from the hot table, and stores the description gzip-compressed.
+ */
+@Entity
+@Table(name = "archived_tickets")
+@Data
+@NoArgsConstructor
+public class ArchivedTicket implements Persistable<Long> {
+
+    @Id
+    private Long id; // Same ID the ticket had in the hot table
+
+    @Column(nullable = false, length = 500)
+    private String subject;
+
+    @Lob
+    @Column(nullable = false)
+    private byte[] descriptionCompressed;
+
+    @Column(length = 100)
+    private String tenantId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Ticket.TicketStatus status;
+
+    @Enumerated(EnumType.STRING)
+    private Ticket.Category category;
+
+    @Enumerated(EnumType.STRING)
+    private Ticket.Priority priority;
+
+    private Integer sentiment; // 1-10 scale
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime updatedAt;
+
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;
+
+    @Transient
+    private boolean newEntity = true; // Lets saveAll() insert without a merge SELECT
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        newEntity = false;
+    }
+}
@@ -16,6 +16,8 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 public class Ticket {
 
+    public static final String DEFAULT_TENANT = "default";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -26,6 +28,9 @@ public class Ticket {
     @Column(nullable = false, length = 5000)
     private String description;
 
+    @Column(length = 100)
+    private String tenantId; // Customer/tenant as submitted, whether or not it has its own queue
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     private TicketStatus status = TicketStatus.PENDING;
@@ -0,0 +1,18 @@
+package com.tickettriage.repository;
+
+import com.tickettriage.model.ArchivedTicket;
+import com.tickettriage.model.Ticket.Category;
+import com.tickettriage.model.Ticket.Priority;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ArchivedTicketRepository extends JpaRepository<ArchivedTicket, Long> {
+
+    @Query("SELECT COUNT(t) FROM ArchivedTicket t WHERE t.category = :category")
+    long countByCategory(Category category);
+
+    @Query("SELECT COUNT(t) FROM ArchivedTicket t WHERE t.priority = :priority")
+    long countByPriority(Priority priority);
+}
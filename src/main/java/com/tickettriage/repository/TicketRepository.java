@@ -4,10 +4,12 @@ import com.tickettriage.model.Ticket;
 import com.tickettriage.model.Ticket.Category;
 import com.tickettriage.model.Ticket.Priority;
 import com.tickettriage.model.Ticket.TicketStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
@@ -21,6 +23,8 @@ public interface TicketRepository extends JpaRepository<Ticket, Long> {
 
     List<Ticket> findByCategoryAndPriority(Category category, Priority priority);
 
+    List<Ticket> findByStatusAndCreatedAtBeforeOrderByIdAsc(TicketStatus status, LocalDateTime cutoff, Pageable pageable);
+
     @Query("SELECT COUNT(t) FROM Ticket t WHERE t.status = :status")
     long countByStatus(TicketStatus status);
 
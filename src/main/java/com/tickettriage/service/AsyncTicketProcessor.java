@@ -1,16 +1,17 @@
 package com.tickettriage.service;
 
 import com.tickettriage.dto.ClassificationResult;
-import com.tickettriage.event.TicketClassificationEvent;
+import com.tickettriage.exception.TicketNotFoundException;
 import com.tickettriage.model.Ticket;
 import com.tickettriage.repository.TicketRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
+import org.slf4j.MDC;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.concurrent.TimeUnit;
+
 @Service
 @RequiredArgsConstructor
 @Slf4j
@@ -18,34 +19,36 @@ public class AsyncTicketProcessor {
 
     private final TicketRepository ticketRepository;
     private final GeminiClassificationService geminiService;
+    private final TicketLogSampler logSampler;
 
     /**
-     * CONSUMER: Listens for TicketClassificationEvent and processes tickets
-     * asynchronously.
-     * This method runs in a separate thread pool, allowing the API to return
-     * immediately.
+     * CONSUMER: Classifies a ticket handed over by FairShareTicketScheduler.
+     * This method runs on the ticketProcessorExecutor thread pool, allowing the
+     * API to return immediately.
      */
-    @Async("ticketProcessorExecutor")
-    @EventListener
     @Transactional
-    public void handleTicketClassification(TicketClassificationEvent event) {
-        Long ticketId = event.getTicketId();
-        log.info("Processing ticket ID: {} in thread: {}", ticketId, Thread.currentThread().getName());
+    public void handleTicketClassification(Long ticketId) {
+        boolean sampled = logSampler.isSampled(ticketId);
+        MDC.put("ticketId", String.valueOf(ticketId));
+        if (sampled) {
+            log.info("Processing ticket ID: {} in thread: {}", ticketId, Thread.currentThread().getName());
+        }
 
         try {
+            long start = System.nanoTime();
+
             // 1. Fetch the ticket
             Ticket ticket = ticketRepository.findById(ticketId)
-                    .orElseThrow(() -> new RuntimeException("Ticket not found: " + ticketId));
+                    .orElseThrow(() -> new TicketNotFoundException(ticketId));
 
             // 2. Update status to PROCESSING
             ticket.setStatus(Ticket.TicketStatus.PROCESSING);
             ticketRepository.save(ticket);
-            log.info("Ticket {} status updated to PROCESSING", ticketId);
+            long fetched = System.nanoTime();
 
             // 3. Call Gemini AI for classification
             ClassificationResult result = geminiService.classify(ticket);
-            log.info("Ticket {} classified - Category: {}, Priority: {}, Sentiment: {}",
-                    ticketId, result.getCategory(), result.getPriority(), result.getSentiment());
+            long classified = System.nanoTime();
 
             // 4. Update ticket with classification results
             ticket.setCategory(result.getCategory());
@@ -53,8 +56,16 @@ public class AsyncTicketProcessor {
             ticket.setSentiment(result.getSentiment());
             ticket.setStatus(Ticket.TicketStatus.CLASSIFIED);
             ticketRepository.save(ticket);
+            long saved = System.nanoTime();
 
-            log.info("Ticket {} successfully classified and saved", ticketId);
+            if (sampled) {
+                MDC.put("fetchMs", String.valueOf(TimeUnit.NANOSECONDS.toMillis(fetched - start)));
+                MDC.put("classifyMs", String.valueOf(TimeUnit.NANOSECONDS.toMillis(classified - fetched)));
+                MDC.put("saveMs", String.valueOf(TimeUnit.NANOSECONDS.toMillis(saved - classified)));
+                MDC.put("totalMs", String.valueOf(TimeUnit.NANOSECONDS.toMillis(saved - start)));
+                log.info("Ticket {} classified - Category: {}, Priority: {}, Sentiment: {}",
+                        ticketId, result.getCategory(), result.getPriority(), result.getSentiment());
+            }
 
         } catch (Exception e) {
             log.error("Failed to process ticket ID: {}", ticketId, e);
@@ -65,6 +76,8 @@ public class AsyncTicketProcessor {
                 ticket.setErrorMessage(e.getMessage());
                 ticketRepository.save(ticket);
             });
+        } finally {
+            MDC.clear();
         }
     }
 }
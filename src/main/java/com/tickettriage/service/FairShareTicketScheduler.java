@@ -0,0 +1,437 @@
+package com.tickettriage.service;
+
+import com.tickettriage.config.FairQueueProperties;
+import com.tickettriage.dto.TenantStatsResponse;
+import com.tickettriage.event.TicketClassificationEvent;
+import com.tickettriage.exception.ClassificationQueueFullException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Sits between ticket creation and {@link AsyncTicketProcessor}. Tickets wait in
+ * one queue per tenant, and a single dispatcher thread drains the queues with
+ * deficit round-robin. Each round, every tenant with waiting tickets earns its
+ * weight in credits, and each dispatched ticket costs one credit. A ticket is
+ * only taken from its queue when a processor thread is free. Otherwise the
+ * executor's FIFO queue would undo the ordering.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class FairShareTicketScheduler {
+
+    private static final int TICKET_COST = 1;
+    private static final int WAIT_WINDOW_SIZE = 200;
+    private static final long REJECTED_BACKOFF_MS = 100;
+    private static final long SHUTDOWN_DRAIN_SECONDS = 60;
+
+    private final AsyncTicketProcessor ticketProcessor;
+    private final ThreadPoolTaskExecutor ticketProcessorExecutor;
+    private final FairQueueProperties properties;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Map<String, TenantQueue> queues = new HashMap<>();
+    private final Deque<TenantQueue> activeTenants = new ArrayDeque<>();
+    private int totalQueued; // Waiting plus reserved, across all tenants
+
+    private Semaphore workerSlots;
+    private Thread dispatcher;
+    private volatile boolean running;
+
+    @PostConstruct
+    public void start() {
+        workerSlots = new Semaphore(ticketProcessorExecutor.getCorePoolSize());
+        running = true;
+        dispatcher = new Thread(this::dispatchLoop, "ticket-dispatcher");
+        dispatcher.setDaemon(true);
+        dispatcher.start();
+    }
+
+    /**
+     * Stops the dispatcher, then hands every ticket still queued to the
+     * processor before the executor shuts down (it depends on this bean, so
+     * it is destroyed after it). Queued tickets are already committed, so any
+     * left behind would stay PENDING.
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        dispatcher.interrupt();
+        dispatcher.join(TimeUnit.SECONDS.toMillis(5));
+        drain();
+    }
+
+    /**
+     * Reserves a slot for the ticket in its tenant's queue. Throws
+     * {@link ClassificationQueueFullException} if the tenant is over quota or
+     * the scheduler is full, which rolls back the ticket's creation.
+     * <p>
+     * Inside a transaction the ticket is only queued once the INSERT has
+     * committed, so a processor never looks up a row it cannot see yet. On
+     * rollback the reservation is released and nothing is queued.
+     */
+    @EventListener
+    public void handleTicketClassification(TicketClassificationEvent event) {
+        String tenantId = event.getTenantId();
+        Long ticketId = event.getTicketId();
+        reserve(tenantId);
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            enqueueReserved(tenantId, ticketId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                enqueueReserved(tenantId, ticketId);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    releaseReservation(tenantId);
+                }
+            }
+        });
+    }
+
+    /**
+     * Lets the producer fail fast, before saving, when the tenant has no room.
+     */
+    public boolean hasCapacity(String tenantId) {
+        lock.lock();
+        try {
+            TenantQueue queue = queues.get(tenantId);
+            return queue == null ? totalQueued < properties.getMaxQueued() : hasCapacity(queue);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Drops queues (and their stats) for tenants with nothing waiting that
+     * have been idle for {@code idle-eviction-minutes}.
+     */
+    @Scheduled(fixedDelayString = "${spring.fair-queue.eviction-interval-ms:60000}")
+    public void evictIdleQueues() {
+        long idleNanos = TimeUnit.MINUTES.toNanos(properties.getIdleEvictionMinutes());
+        long now = System.nanoTime();
+        lock.lock();
+        try {
+            Iterator<TenantQueue> it = queues.values().iterator();
+            while (it.hasNext()) {
+                TenantQueue queue = it.next();
+                if (!queue.active && queue.pending.isEmpty() && queue.reserved == 0
+                        && now - queue.lastActivity > idleNanos) {
+                    it.remove();
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public Map<String, TenantStatsResponse> snapshot() {
+        lock.lock();
+        try {
+            Map<String, TenantStatsResponse> snapshot = new TreeMap<>();
+            queues.forEach((tenantId, queue) -> snapshot.put(tenantId, queue.toResponse()));
+            return snapshot;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean hasCapacity(TenantQueue queue) {
+        return queue.pending.size() + queue.reserved < properties.quotaFor(queue.tenantId)
+                && totalQueued < properties.getMaxQueued();
+    }
+
+    private void reserve(String tenantId) {
+        lock.lock();
+        try {
+            TenantQueue queue = queues.computeIfAbsent(tenantId, TenantQueue::new);
+            if (!hasCapacity(queue)) {
+                queue.rejected++;
+                throw new ClassificationQueueFullException("Classification queue is full for tenant: " + tenantId);
+            }
+            queue.reserved++;
+            queue.lastActivity = System.nanoTime();
+            totalQueued++;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void enqueueReserved(String tenantId, Long ticketId) {
+        lock.lock();
+        try {
+            TenantQueue queue = queues.get(tenantId);
+            queue.reserved--;
+            queue.pending.addLast(new QueuedTicket(ticketId, tenantId, System.nanoTime()));
+            if (!queue.active) {
+                queue.active = true;
+                queue.deficit = 0;
+                activeTenants.addLast(queue);
+            }
+            notEmpty.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void releaseReservation(String tenantId) {
+        lock.lock();
+        try {
+            queues.get(tenantId).reserved--;
+            totalQueued--;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void dispatchLoop() {
+        while (running) {
+            try {
+                workerSlots.acquire();
+                QueuedTicket next = null;
+                boolean handedOff = false;
+                try {
+                    next = takeNext();
+                    handedOff = handOff(next);
+                } finally {
+                    if (!handedOff) {
+                        workerSlots.release();
+                    }
+                }
+                if (handedOff) {
+                    recordDispatch(next);
+                } else {
+                    Thread.sleep(REJECTED_BACKOFF_MS);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                // A dead dispatcher would stop classification for good
+                log.error("Ticket dispatcher failed, continuing", e);
+                try {
+                    Thread.sleep(REJECTED_BACKOFF_MS);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Dispatches whatever is still queued at shutdown, waiting for free
+     * processor threads for up to {@link #SHUTDOWN_DRAIN_SECONDS}.
+     */
+    private void drain() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(SHUTDOWN_DRAIN_SECONDS);
+        int dispatched = 0;
+        while (workerSlots.tryAcquire(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+            QueuedTicket next = pollNext();
+            if (next == null) {
+                workerSlots.release();
+                break;
+            }
+            if (handOff(next)) {
+                recordDispatch(next);
+                dispatched++;
+            } else {
+                workerSlots.release();
+                Thread.sleep(REJECTED_BACKOFF_MS);
+            }
+        }
+
+        int left = queuedTickets();
+        if (left > 0) {
+            log.warn("Shutting down with {} queued tickets not dispatched, they stay PENDING", left);
+        } else if (dispatched > 0) {
+            log.info("Dispatched {} queued tickets before shutdown", dispatched);
+        }
+    }
+
+    /**
+     * Hands the ticket to a processor thread, which releases its worker slot
+     * when done. If the executor rejects it, the ticket goes back to the head
+     * of its tenant's queue and false is returned.
+     */
+    private boolean handOff(QueuedTicket ticket) {
+        try {
+            ticketProcessorExecutor.execute(() -> {
+                try {
+                    ticketProcessor.handleTicketClassification(ticket.ticketId());
+                } finally {
+                    workerSlots.release();
+                }
+            });
+            return true;
+        } catch (TaskRejectedException e) {
+            log.warn("Processor rejected ticket ID: {}, returning it to the head of its queue", ticket.ticketId(), e);
+            requeueAtHead(ticket);
+            return false;
+        }
+    }
+
+    private void recordDispatch(QueuedTicket ticket) {
+        lock.lock();
+        try {
+            TenantQueue queue = queues.get(ticket.tenantId());
+            if (queue != null) {
+                queue.recordDispatch(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - ticket.enqueuedAt()));
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private int queuedTickets() {
+        lock.lock();
+        try {
+            return queues.values().stream().mapToInt(queue -> queue.pending.size()).sum();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void requeueAtHead(QueuedTicket ticket) {
+        lock.lock();
+        try {
+            TenantQueue queue = queues.computeIfAbsent(ticket.tenantId(), TenantQueue::new);
+            queue.pending.addFirst(ticket);
+            queue.deficit += TICKET_COST; // Refund the credit spent on the failed dispatch
+            totalQueued++;
+            if (!queue.active) {
+                queue.active = true;
+                activeTenants.addFirst(queue);
+            }
+            notEmpty.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Deficit round-robin over the tenants that have tickets waiting. The head
+     * tenant is served while it has credit. Otherwise it moves to the tail and
+     * earns its weight for its next turn.
+     */
+    QueuedTicket takeNext() throws InterruptedException {
+        lock.lock();
+        try {
+            while (activeTenants.isEmpty()) {
+                notEmpty.await();
+            }
+            return pollNext();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Same as {@link #takeNext()}, but returns null when nothing is queued.
+     */
+    private QueuedTicket pollNext() {
+        lock.lock();
+        try {
+            if (activeTenants.isEmpty()) {
+                return null;
+            }
+            while (true) {
+                TenantQueue queue = activeTenants.peekFirst();
+                if (queue.deficit >= TICKET_COST) {
+                    QueuedTicket ticket = queue.pending.pollFirst();
+                    queue.deficit -= TICKET_COST;
+                    totalQueued--;
+                    if (queue.pending.isEmpty()) {
+                        // Idle tenants don't bank credit
+                        activeTenants.pollFirst();
+                        queue.active = false;
+                        queue.deficit = 0;
+                    }
+                    return ticket;
+                }
+                activeTenants.addLast(activeTenants.pollFirst());
+                queue.deficit += properties.weightFor(queue.tenantId);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    record QueuedTicket(Long ticketId, String tenantId, long enqueuedAt) {
+    }
+
+    /**
+     * Per-tenant queue and wait-time window. Guarded by the scheduler lock.
+     */
+    private class TenantQueue {
+
+        private final String tenantId;
+        private final Deque<QueuedTicket> pending = new ArrayDeque<>();
+        private int reserved; // Accepted inside a transaction that has not committed yet
+        private long lastActivity = System.nanoTime();
+        private final long[] waitWindow = new long[WAIT_WINDOW_SIZE];
+        private int waitCount;
+        private int nextSlot;
+        private boolean active;
+        private int deficit;
+        private long dispatched;
+        private long rejected;
+        private long maxWaitMs;
+
+        TenantQueue(String tenantId) {
+            this.tenantId = tenantId;
+        }
+
+        void recordDispatch(long waitMs) {
+            dispatched++;
+            lastActivity = System.nanoTime();
+            maxWaitMs = Math.max(maxWaitMs, waitMs);
+            waitWindow[nextSlot] = waitMs;
+            nextSlot = (nextSlot + 1) % WAIT_WINDOW_SIZE;
+            waitCount = Math.min(waitCount + 1, WAIT_WINDOW_SIZE);
+        }
+
+        long percentile(double quantile) {
+            if (waitCount == 0) {
+                return 0;
+            }
+            long[] sorted = Arrays.copyOf(waitWindow, waitCount);
+            Arrays.sort(sorted);
+            int index = (int) Math.ceil(quantile * waitCount) - 1;
+            return sorted[Math.max(0, index)];
+        }
+
+        TenantStatsResponse toResponse() {
+            return new TenantStatsResponse(tenantId, properties.weightFor(tenantId), properties.quotaFor(tenantId),
+                    pending.size(), dispatched, rejected, percentile(0.50), percentile(0.95), maxWaitMs);
+        }
+    }
+}
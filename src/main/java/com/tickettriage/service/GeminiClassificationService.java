@@ -12,6 +12,11 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -21,16 +26,53 @@ import java.util.regex.Pattern;
 public class GeminiClassificationService {
 
     private final OkHttpClient httpClient;
+    private final ModelLatencyTracker latencyTracker;
+    private final TicketLogSampler logSampler;
     private final Gson gson = new Gson();
 
+    private final HedgeBudget hedgeBudget = new HedgeBudget();
+
     @Value("${spring.gemini.api-key}")
     private String apiKey;
 
-    @Value("${spring.gemini.model:gemini-1.5-flash}")
-    private String model;
+    @Value("${spring.gemini.routing.fast-model:${spring.gemini.model:gemini-1.5-flash}}")
+    private String fastModel;
+
+    @Value("${spring.gemini.routing.strong-model:${spring.gemini.model:gemini-1.5-flash}}")
+    private String strongModel;
+
+    @Value("${spring.gemini.routing.simple-max-chars:600}")
+    private int simpleMaxChars;
+
+    @Value("${spring.gemini.routing.fast-cost-per-million-tokens:0.075}")
+    private double fastCostPerMillionTokens;
+
+    @Value("${spring.gemini.routing.strong-cost-per-million-tokens:0.30}")
+    private double strongCostPerMillionTokens;
+
+    @Value("${spring.gemini.routing.target-cost-per-ticket:0}")
+    private double targetCostPerTicket;
+
+    @Value("${spring.gemini.max-tokens:1000}")
+    private int maxOutputTokens;
+
+    @Value("${spring.gemini.hedging.enabled:true}")
+    private boolean hedgingEnabled;
+
+    @Value("${spring.gemini.hedging.min-delay-ms:500}")
+    private long hedgeMinDelayMs;
+
+    @Value("${spring.gemini.hedging.max-rate:0.05}")
+    private double hedgeMaxRate;
 
     private static final String GEMINI_API_URL = "https://generativelanguage.googleapis.com/v1/models/%s:generateContent?key=%s";
 
+    private static final int CHARS_PER_TOKEN = 4;
+
+    private static final int MIN_ROUTING_SAMPLES = 20;
+    private static final double MIN_THRESHOLD_FACTOR = 0.5;
+    private static final double MAX_THRESHOLD_FACTOR = 2.0;
+
     private static final String CLASSIFICATION_PROMPT = """
             Analyze the following customer support ticket and provide classification:
 
@@ -51,7 +93,10 @@ public class GeminiClassificationService {
 
     public ClassificationResult classify(Ticket ticket) {
         try {
-            log.info("Classifying ticket ID: {} using Gemini REST API", ticket.getId());
+            String model = selectModel(ticket);
+            if (logSampler.isSampled(ticket.getId())) {
+                log.info("Classifying ticket ID: {} using Gemini REST API (model: {})", ticket.getId(), model);
+            }
 
             // Build the prompt
             String prompt = String.format(CLASSIFICATION_PROMPT,
@@ -70,47 +115,199 @@ public class GeminiClassificationService {
             contents.add(content);
             requestBody.add("contents", contents);
 
-            // Build URL
-            String url = String.format(GEMINI_API_URL, model, apiKey);
+            // Make HTTP request, hedging if the model is slow to answer
+            String responseBody = executeHedged(model, requestBody.toString(), prompt.length());
+
+            // Parse response
+            JsonObject jsonResponse = gson.fromJson(responseBody, JsonObject.class);
+            String responseText = jsonResponse
+                    .getAsJsonArray("candidates")
+                    .get(0).getAsJsonObject()
+                    .getAsJsonObject("content")
+                    .getAsJsonArray("parts")
+                    .get(0).getAsJsonObject()
+                    .get("text").getAsString();
+
+            log.debug("Gemini classification text: {}", responseText);
+
+            // Parse the classification
+            return parseClassificationResponse(responseText);
+
+        } catch (Exception e) {
+            log.error("Error classifying ticket ID: {}", ticket.getId(), e);
+            throw new RuntimeException("Failed to classify ticket: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Tickets up to the routing threshold go to the fast model, longer ones to
+     * the strong model.
+     */
+    String selectModel(Ticket ticket) {
+        int length = ticket.getSubject().length() + ticket.getDescription().length();
+        return length <= routingThresholdChars() ? fastModel : strongModel;
+    }
+
+    /**
+     * Starts at {@code simple-max-chars} and moves with the tracked stats once
+     * both models have enough samples:
+     * <ul>
+     * <li>latency: scaled by strong p95 / fast p95, so a fast model that stops
+     * being faster gets fewer tickets;</li>
+     * <li>cost: scaled by observed cost per ticket / {@code target-cost-per-ticket},
+     * so overspending shifts tickets to the cheaper model.</li>
+     * </ul>
+     * Each factor is clamped to [0.5, 2].
+     */
+    int routingThresholdChars() {
+        if (fastModel.equals(strongModel)
+                || latencyTracker.sampleCount(fastModel) < MIN_ROUTING_SAMPLES
+                || latencyTracker.sampleCount(strongModel) < MIN_ROUTING_SAMPLES) {
+            return simpleMaxChars;
+        }
+
+        double threshold = simpleMaxChars;
 
-            // Make HTTP request
-            RequestBody body = RequestBody.create(
-                    requestBody.toString(),
-                    MediaType.parse("application/json"));
+        long fastP95 = latencyTracker.p95LatencyMs(fastModel);
+        long strongP95 = latencyTracker.p95LatencyMs(strongModel);
+        if (fastP95 > 0 && strongP95 > 0) {
+            threshold *= clampFactor((double) strongP95 / fastP95);
+        }
+
+        long tickets = latencyTracker.successfulRequests(fastModel) + latencyTracker.successfulRequests(strongModel);
+        if (targetCostPerTicket > 0 && tickets > 0) {
+            double costPerTicket = (latencyTracker.estimatedCost(fastModel)
+                    + latencyTracker.estimatedCost(strongModel)) / tickets;
+            threshold *= clampFactor(costPerTicket / targetCostPerTicket);
+        }
+
+        return (int) threshold;
+    }
+
+    private static double clampFactor(double factor) {
+        return Math.min(MAX_THRESHOLD_FACTOR, Math.max(MIN_THRESHOLD_FACTOR, factor));
+    }
 
-            Request request = new Request.Builder()
-                    .url(url)
-                    .post(body)
-                    .build();
+    /**
+     * Sends the request and, if no response has arrived after the model's p95
+     * latency, sends a second identical request. Whichever answers first wins
+     * and the other call is cancelled. Hedges are capped at
+     * {@code hedging.max-rate} of all requests.
+     */
+    private String executeHedged(String model, String payload, int promptChars) throws Exception {
+        hedgeBudget.recordRequest();
 
-            try (Response response = httpClient.newCall(request).execute()) {
-                if (!response.isSuccessful()) {
-                    throw new IOException("Unexpected response code: " + response);
+        CompletableFuture<String> result = new CompletableFuture<>();
+        AtomicInteger outstanding = new AtomicInteger(1);
+        Call primary = newCall(model, payload);
+        AtomicReference<Call> hedge = new AtomicReference<>();
+        enqueue(primary, model, promptChars, result, outstanding);
+
+        if (hedgingEnabled) {
+            long delayMs = Math.max(hedgeMinDelayMs, latencyTracker.p95LatencyMs(model));
+            CompletableFuture.delayedExecutor(delayMs, TimeUnit.MILLISECONDS).execute(() -> {
+                if (result.isDone() || !hedgeBudget.tryAcquire(hedgeMaxRate)) {
+                    return;
+                }
+                log.debug("No Gemini response after {} ms from {}, sending hedged request", delayMs, model);
+                latencyTracker.recordHedge(model);
+                outstanding.incrementAndGet();
+                Call hedgeCall = newCall(model, payload);
+                hedge.set(hedgeCall);
+                if (result.isDone()) {
+                    // The request finished while the hedge was being built and the
+                    // finally block may already have run without seeing this call
+                    hedgeCall.cancel();
+                    return;
                 }
+                enqueue(hedgeCall, model, promptChars, result, outstanding);
+            });
+        }
 
-                String responseBody = response.body().string();
-                log.debug("Gemini API response: {}", responseBody);
+        try {
+            return result.get();
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof Exception cause ? cause : e;
+        } finally {
+            primary.cancel();
+            Call hedgeCall = hedge.get();
+            if (hedgeCall != null) {
+                hedgeCall.cancel();
+            }
+        }
+    }
 
-                // Parse response
-                JsonObject jsonResponse = gson.fromJson(responseBody, JsonObject.class);
-                String responseText = jsonResponse
-                        .getAsJsonArray("candidates")
-                        .get(0).getAsJsonObject()
-                        .getAsJsonObject("content")
-                        .getAsJsonArray("parts")
-                        .get(0).getAsJsonObject()
-                        .get("text").getAsString();
+    private Call newCall(String model, String payload) {
+        RequestBody body = RequestBody.create(payload, MediaType.parse("application/json"));
+        Request request = new Request.Builder()
+                .url(String.format(GEMINI_API_URL, model, apiKey))
+                .post(body)
+                .build();
+        return httpClient.newCall(request);
+    }
 
-                log.debug("Gemini classification text: {}", responseText);
+    private void enqueue(Call call, String model, int promptChars,
+            CompletableFuture<String> result, AtomicInteger outstanding) {
+        long startNanos = System.nanoTime();
+        call.enqueue(new Callback() {
+            @Override
+            public void onResponse(Call call, Response response) {
+                try (response) {
+                    if (!response.isSuccessful()) {
+                        throw new IOException("Unexpected response code: " + response);
+                    }
+                    String responseBody = response.body().string();
+                    // Measured from when the request hit the wire, not from enqueue,
+                    // so time spent in OkHttp's dispatcher queue is not blamed on the model
+                    long latencyMs = System.currentTimeMillis() - response.sentRequestAtMillis();
+                    latencyTracker.recordSuccess(model, latencyMs, responseCost(model, promptChars, responseBody));
+                    result.complete(responseBody);
+                } catch (IOException e) {
+                    onFailure(call, e);
+                }
+            }
 
-                // Parse the classification
-                return parseClassificationResponse(responseText);
+            @Override
+            public void onFailure(Call call, IOException e) {
+                if (call.isCanceled()) {
+                    // Lost the race against the other request. Its true latency is at
+                    // least this long; dropping it would leave only the winners in p95.
+                    // Gemini still bills it, so charge the prompt plus the full output budget.
+                    long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+                    latencyTracker.recordCensored(model, elapsedMs,
+                            estimateCost(model, promptChars / CHARS_PER_TOKEN, maxOutputTokens));
+                    return;
+                }
+                latencyTracker.recordFailure(model);
+                if (outstanding.decrementAndGet() == 0) {
+                    result.completeExceptionally(e);
+                }
             }
+        });
+    }
 
-        } catch (Exception e) {
-            log.error("Error classifying ticket ID: {}", ticket.getId(), e);
-            throw new RuntimeException("Failed to classify ticket: " + e.getMessage(), e);
+    /**
+     * Prices a response from the token counts in its {@code usageMetadata},
+     * falling back to a prompt-size estimate plus the full output budget.
+     */
+    private double responseCost(String model, int promptChars, String responseBody) {
+        long promptTokens = promptChars / CHARS_PER_TOKEN;
+        long outputTokens = maxOutputTokens;
+        try {
+            JsonObject usage = gson.fromJson(responseBody, JsonObject.class).getAsJsonObject("usageMetadata");
+            if (usage != null && usage.has("promptTokenCount")) {
+                promptTokens = usage.get("promptTokenCount").getAsLong();
+                outputTokens = usage.has("candidatesTokenCount") ? usage.get("candidatesTokenCount").getAsLong() : 0;
+            }
+        } catch (RuntimeException e) {
+            log.debug("Could not read usageMetadata from Gemini response, estimating cost", e);
         }
+        return estimateCost(model, promptTokens, outputTokens);
+    }
+
+    double estimateCost(String model, long promptTokens, long outputTokens) {
+        double costPerMillion = model.equals(fastModel) ? fastCostPerMillionTokens : strongCostPerMillionTokens;
+        return (double) (promptTokens + outputTokens) * costPerMillion / 1_000_000;
     }
 
     private ClassificationResult parseClassificationResponse(String response) {
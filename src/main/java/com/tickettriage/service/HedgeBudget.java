@@ -0,0 +1,31 @@
+package com.tickettriage.service;
+
+/**
+ * Caps hedged Gemini requests at a fraction of recent requests. Each request
+ * adds {@code maxRate} of a hedge to a token bucket that holds at most
+ * {@link #MAX_BURST} hedges, so a long quiet stretch can't bank an allowance
+ * that a later slowdown would spend all at once.
+ */
+class HedgeBudget {
+
+    static final double MAX_BURST = 2;
+    private static final double EPSILON = 1e-9;
+
+    private long totalRequests;
+    private long refilledUpTo;
+    private double tokens;
+
+    synchronized void recordRequest() {
+        totalRequests++;
+    }
+
+    synchronized boolean tryAcquire(double maxRate) {
+        tokens = Math.min(MAX_BURST, tokens + (totalRequests - refilledUpTo) * maxRate);
+        refilledUpTo = totalRequests;
+        if (tokens < 1 - EPSILON) {
+            return false;
+        }
+        tokens -= 1;
+        return true;
+    }
+}
@@ -0,0 +1,145 @@
+package com.tickettriage.service;
+
+import com.tickettriage.dto.ModelStatsResponse;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps a sliding window of recent Gemini call latencies and running cost per
+ * model. The percentiles drive model routing and the hedge delay.
+ */
+@Component
+public class ModelLatencyTracker {
+
+    private static final int WINDOW_SIZE = 200;
+
+    private final Map<String, ModelStats> statsByModel = new ConcurrentHashMap<>();
+
+    public void recordSuccess(String model, long latencyMs, double cost) {
+        stats(model).recordSuccess(latencyMs, cost);
+    }
+
+    /**
+     * Records a call that was cancelled before it answered. The elapsed time is
+     * a lower bound on its latency and goes into the window like a normal sample.
+     * The call was still sent, so its cost counts too.
+     */
+    public void recordCensored(String model, long elapsedMs, double cost) {
+        stats(model).recordCensored(elapsedMs, cost);
+    }
+
+    public void recordFailure(String model) {
+        stats(model).recordFailure();
+    }
+
+    public void recordHedge(String model) {
+        stats(model).recordHedge();
+    }
+
+    /**
+     * Returns the p95 latency of the model's recent calls, or 0 if no calls
+     * have completed yet.
+     */
+    public long p95LatencyMs(String model) {
+        ModelStats stats = statsByModel.get(model);
+        return stats == null ? 0 : stats.percentile(0.95);
+    }
+
+    /**
+     * Number of latency samples currently in the model's window.
+     */
+    public int sampleCount(String model) {
+        ModelStats stats = statsByModel.get(model);
+        return stats == null ? 0 : stats.sampleCount();
+    }
+
+    public long successfulRequests(String model) {
+        ModelStats stats = statsByModel.get(model);
+        return stats == null ? 0 : stats.successfulRequests();
+    }
+
+    public double estimatedCost(String model) {
+        ModelStats stats = statsByModel.get(model);
+        return stats == null ? 0 : stats.estimatedCost();
+    }
+
+    public Map<String, ModelStatsResponse> snapshot() {
+        Map<String, ModelStatsResponse> snapshot = new TreeMap<>();
+        statsByModel.forEach((model, stats) -> snapshot.put(model, stats.toResponse(model)));
+        return snapshot;
+    }
+
+    private ModelStats stats(String model) {
+        return statsByModel.computeIfAbsent(model, m -> new ModelStats());
+    }
+
+    private static class ModelStats {
+
+        private final long[] window = new long[WINDOW_SIZE];
+        private int windowCount;
+        private int nextSlot;
+        private long requests;
+        private long failures;
+        private long hedgedRequests;
+        private long cancelledRequests;
+        private double estimatedCost;
+
+        synchronized void recordSuccess(long latencyMs, double cost) {
+            requests++;
+            estimatedCost += cost;
+            addSample(latencyMs);
+        }
+
+        synchronized void recordCensored(long elapsedMs, double cost) {
+            cancelledRequests++;
+            estimatedCost += cost;
+            addSample(elapsedMs);
+        }
+
+        private void addSample(long latencyMs) {
+            window[nextSlot] = latencyMs;
+            nextSlot = (nextSlot + 1) % WINDOW_SIZE;
+            windowCount = Math.min(windowCount + 1, WINDOW_SIZE);
+        }
+
+        synchronized void recordFailure() {
+            requests++;
+            failures++;
+        }
+
+        synchronized void recordHedge() {
+            hedgedRequests++;
+        }
+
+        synchronized int sampleCount() {
+            return windowCount;
+        }
+
+        synchronized long successfulRequests() {
+            return requests - failures;
+        }
+
+        synchronized double estimatedCost() {
+            return estimatedCost;
+        }
+
+        synchronized long percentile(double quantile) {
+            if (windowCount == 0) {
+                return 0;
+            }
+            long[] sorted = Arrays.copyOf(window, windowCount);
+            Arrays.sort(sorted);
+            int index = (int) Math.ceil(quantile * windowCount) - 1;
+            return sorted[Math.max(0, index)];
+        }
+
+        synchronized ModelStatsResponse toResponse(String model) {
+            return new ModelStatsResponse(model, requests, failures, hedgedRequests, cancelledRequests,
+                    percentile(0.50), percentile(0.95), estimatedCost);
+        }
+    }
+}
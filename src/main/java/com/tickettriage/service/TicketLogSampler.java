@@ -0,0 +1,26 @@
+package com.tickettriage.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Decides which tickets get per-ticket INFO logs. The decision is a hash of the
+ * ticket ID, so a sampled ticket is logged in every phase and the rest not at all.
+ * Warnings and errors are never sampled.
+ */
+@Component
+public class TicketLogSampler {
+
+    private static final int BUCKETS = 10_000;
+
+    @Value("${logging.ticket-sample-rate:0.05}")
+    private double sampleRate;
+
+    public boolean isSampled(Long ticketId) {
+        if (ticketId == null) {
+            return false;
+        }
+        long mixed = ticketId * 0x9E3779B97F4A7C15L; // Spread sequential IDs across buckets
+        return Math.floorMod(mixed >>> 16, BUCKETS) < sampleRate * BUCKETS;
+    }
+}
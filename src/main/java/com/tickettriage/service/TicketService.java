@@ -1,9 +1,13 @@
 package com.tickettriage.service;
 
+import com.tickettriage.config.FairQueueProperties;
 import com.tickettriage.dto.TicketRequest;
 import com.tickettriage.dto.TicketStatsResponse;
 import com.tickettriage.event.TicketClassificationEvent;
+import com.tickettriage.exception.ClassificationQueueFullException;
+import com.tickettriage.exception.TicketNotFoundException;
 import com.tickettriage.model.Ticket;
+import com.tickettriage.repository.ArchivedTicketRepository;
 import com.tickettriage.repository.TicketRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -21,36 +25,54 @@ import java.util.Map;
 public class TicketService {
 
     private final TicketRepository ticketRepository;
+    private final ArchivedTicketRepository archivedTicketRepository;
+    private final TicketArchiveService ticketArchiveService;
+    private final TicketLogSampler logSampler;
     private final ApplicationEventPublisher eventPublisher;
+    private final FairShareTicketScheduler fairShareScheduler;
+    private final FairQueueProperties fairQueueProperties;
 
     /**
      * PRODUCER: Creates a ticket and publishes an event for async classification.
-     * Returns immediately with PENDING status.
+     * Returns immediately with PENDING status, or rejects the ticket with
+     * {@link ClassificationQueueFullException} when its tenant's queue is full.
      */
     @Transactional
     public Ticket createTicket(TicketRequest request) {
-        log.info("Creating new ticket: {}", request.getSubject());
+        log.debug("Creating new ticket: {}", request.getSubject());
+        // The ticket keeps the customer's own ID; the queue key may be the shared default
+        String queueKey = fairQueueProperties.resolveTenant(request.getTenantId());
+        if (!fairShareScheduler.hasCapacity(queueKey)) {
+            throw new ClassificationQueueFullException("Classification queue is full for tenant: " + queueKey);
+        }
 
         // 1. Create and save ticket with PENDING status
         Ticket ticket = new Ticket();
         ticket.setSubject(request.getSubject());
         ticket.setDescription(request.getDescription());
+        String tenantId = request.getTenantId();
+        ticket.setTenantId(tenantId == null || tenantId.isBlank() ? Ticket.DEFAULT_TENANT : tenantId);
         ticket.setStatus(Ticket.TicketStatus.PENDING);
         ticket = ticketRepository.save(ticket);
 
-        log.info("Ticket created with ID: {}", ticket.getId());
-
-        // 2. PUBLISH EVENT for async processing (like sending to Kafka topic)
-        eventPublisher.publishEvent(new TicketClassificationEvent(this, ticket.getId()));
-        log.info("Published classification event for ticket ID: {}", ticket.getId());
+        // 2. PUBLISH EVENT for async processing (like sending to Kafka topic).
+        // A full tenant queue throws here and rolls back the save.
+        eventPublisher.publishEvent(new TicketClassificationEvent(this, ticket.getId(), queueKey));
+        if (logSampler.isSampled(ticket.getId())) {
+            log.info("Ticket created with ID: {} and published for classification", ticket.getId());
+        }
 
         // 3. Return immediately - user sees "Ticket Received"
         return ticket;
     }
 
+    /**
+     * Looks in the hot table first and falls back to the archive.
+     */
     public Ticket getTicketById(Long id) {
         return ticketRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Ticket not found with ID: " + id));
+                .or(() -> ticketArchiveService.findArchivedTicket(id))
+                .orElseThrow(() -> new TicketNotFoundException(id));
     }
 
     public List<Ticket> getAllTickets() {
@@ -69,30 +91,38 @@ public class TicketService {
         return ticketRepository.findByPriority(priority);
     }
 
+    /**
+     * Statistics cover both the hot table and the archive.
+     * Only CLASSIFIED tickets are ever archived.
+     */
     public TicketStatsResponse getStatistics() {
         TicketStatsResponse stats = new TicketStatsResponse();
 
         // Total tickets
-        stats.setTotalTickets(ticketRepository.count());
+        long archived = archivedTicketRepository.count();
+        stats.setTotalTickets(ticketRepository.count() + archived);
 
         // By status
         Map<String, Long> byStatus = new HashMap<>();
         for (Ticket.TicketStatus status : Ticket.TicketStatus.values()) {
             byStatus.put(status.name(), ticketRepository.countByStatus(status));
         }
+        byStatus.merge(Ticket.TicketStatus.CLASSIFIED.name(), archived, Long::sum);
         stats.setByStatus(byStatus);
 
         // By category
         Map<String, Long> byCategory = new HashMap<>();
         for (Ticket.Category category : Ticket.Category.values()) {
-            byCategory.put(category.name(), ticketRepository.countByCategory(category));
+            byCategory.put(category.name(), ticketRepository.countByCategory(category)
+                    + archivedTicketRepository.countByCategory(category));
         }
         stats.setByCategory(byCategory);
 
         // By priority
         Map<String, Long> byPriority = new HashMap<>();
         for (Ticket.Priority priority : Ticket.Priority.values()) {
-            byPriority.put(priority.name(), ticketRepository.countByPriority(priority));
+            byPriority.put(priority.name(), ticketRepository.countByPriority(priority)
+                    + archivedTicketRepository.countByPriority(priority));
         }
         stats.setByPriority(byPriority);
 
@@ -0,0 +1,192 @@
+package com.tickettriage.controller;
+
+import com.tickettriage.dto.TicketRequest;
+import com.tickettriage.exception.IntakeSaturatedException;
+import com.tickettriage.model.Ticket;
+import com.tickettriage.service.TicketService;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Compares the blocking thread-per-request model with the reactive intake
+ * bridge for a burst of concurrent submissions, each doing a simulated 2 ms
+ * blocking save. Both run on the same simulated servlet pool. Prints the peak
+ * number of servlet threads held inside the handler and p99 latency; timings
+ * are a rough guide.
+ */
+class ReactiveIntakeBenchmarkTest {
+
+    private static final int REQUESTS = 1_000;
+    private static final int SERVLET_THREADS = 200;
+    private static final int INTAKE_THREADS = 16;
+    private static final long SAVE_MILLIS = 2;
+    private static final String SERVLET_THREAD_PREFIX = "bench-servlet-";
+
+    private final AtomicInteger servletThreadsHeld = new AtomicInteger();
+    private final AtomicInteger peakServletThreadsHeld = new AtomicInteger();
+    private final AtomicInteger savesOnServletThreads = new AtomicInteger();
+
+    @Test
+    @Tag("benchmark")
+    void reportsServletThreadsHeldAndP99ForBlockingAndReactiveIntake() throws Exception {
+        TicketService ticketService = slowTicketService();
+
+        Result blocking = runBlocking(ticketService);
+        Result reactive = runReactive(ticketService);
+
+        System.out.printf("%-28s %22s %10s%n", "Intake model", "servlet threads held", "p99 ms");
+        for (Result result : List.of(blocking, reactive)) {
+            System.out.printf("%-28s %22d %10d%n", result.label(), result.peakServletThreadsHeld(), result.p99Millis());
+        }
+
+        // Blocking: every save ties up the servlet thread that received the request
+        assertThat(blocking.savesOnServletThreads()).isEqualTo(REQUESTS);
+        assertThat(blocking.peakServletThreadsHeld()).isGreaterThan(INTAKE_THREADS);
+        // Reactive: the servlet thread only subscribes; every save runs on the intake scheduler
+        assertThat(reactive.savesOnServletThreads()).isZero();
+        assertThat(reactive.peakServletThreadsHeld()).isLessThan(blocking.peakServletThreadsHeld());
+    }
+
+    @Test
+    void saturatedIntakeSchedulerSurfacesAsIntakeSaturated() {
+        Scheduler tiny = Schedulers.newBoundedElastic(1, 1, "tiny-intake");
+        try {
+            ReactiveTicketController controller = new ReactiveTicketController(slowTicketService(), tiny);
+
+            List<Throwable> errors = Collections.synchronizedList(new ArrayList<>());
+            Flux.range(0, 20)
+                    .flatMap(i -> controller.createTicket(request())
+                            .doOnError(errors::add)
+                            .onErrorResume(e -> Mono.empty()))
+                    .blockLast(Duration.ofSeconds(10));
+
+            assertThat(errors).isNotEmpty().allMatch(IntakeSaturatedException.class::isInstance);
+        } finally {
+            tiny.dispose();
+        }
+    }
+
+    private Result runBlocking(TicketService ticketService) throws Exception {
+        reset();
+        TicketController controller = new TicketController(ticketService, null, null, null);
+        ExecutorService servletPool = servletPool();
+        List<Future<Long>> latencies = new ArrayList<>();
+        for (int i = 0; i < REQUESTS; i++) {
+            long submitted = System.nanoTime();
+            latencies.add(servletPool.submit(() -> {
+                holdServletThread(() -> controller.createTicket(request()));
+                return System.nanoTime() - submitted;
+            }));
+        }
+        List<Long> nanos = new ArrayList<>();
+        for (Future<Long> latency : latencies) {
+            nanos.add(latency.get());
+        }
+        servletPool.shutdown();
+        servletPool.awaitTermination(5, TimeUnit.SECONDS);
+        return new Result("blocking (servlet thread)", peakServletThreadsHeld.get(), savesOnServletThreads.get(),
+                p99Millis(nanos));
+    }
+
+    private Result runReactive(TicketService ticketService) throws Exception {
+        reset();
+        Scheduler scheduler = Schedulers.newBoundedElastic(INTAKE_THREADS, REQUESTS, "bench-intake");
+        ExecutorService servletPool = servletPool();
+        try {
+            ReactiveTicketController controller = new ReactiveTicketController(ticketService, scheduler);
+            List<CompletableFuture<Long>> latencies = new ArrayList<>();
+            for (int i = 0; i < REQUESTS; i++) {
+                long submitted = System.nanoTime();
+                CompletableFuture<Long> latency = new CompletableFuture<>();
+                latencies.add(latency);
+                // Like Spring MVC, the servlet thread subscribes and returns; the
+                // response is completed later from whichever thread emits it
+                servletPool.execute(() -> holdServletThread(() -> controller.createTicket(request())
+                        .subscribe(r -> latency.complete(System.nanoTime() - submitted),
+                                latency::completeExceptionally)));
+            }
+            List<Long> nanos = new ArrayList<>();
+            for (CompletableFuture<Long> latency : latencies) {
+                nanos.add(latency.get(30, TimeUnit.SECONDS));
+            }
+            return new Result("reactive (bounded bridge)", peakServletThreadsHeld.get(), savesOnServletThreads.get(),
+                    p99Millis(nanos));
+        } finally {
+            servletPool.shutdown();
+            servletPool.awaitTermination(5, TimeUnit.SECONDS);
+            scheduler.dispose();
+        }
+    }
+
+    private void holdServletThread(Runnable handler) {
+        peakServletThreadsHeld.accumulateAndGet(servletThreadsHeld.incrementAndGet(), Math::max);
+        try {
+            handler.run();
+        } finally {
+            servletThreadsHeld.decrementAndGet();
+        }
+    }
+
+    private static ExecutorService servletPool() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        return Executors.newFixedThreadPool(SERVLET_THREADS,
+                r -> new Thread(r, SERVLET_THREAD_PREFIX + threadNumber.incrementAndGet()));
+    }
+
+    private TicketService slowTicketService() {
+        TicketService ticketService = mock(TicketService.class);
+        when(ticketService.createTicket(any())).thenAnswer(invocation -> {
+            if (Thread.currentThread().getName().startsWith(SERVLET_THREAD_PREFIX)) {
+                savesOnServletThreads.incrementAndGet();
+            }
+            Thread.sleep(SAVE_MILLIS);
+            Ticket ticket = new Ticket();
+            ticket.setId(1L);
+            return ticket;
+        });
+        return ticketService;
+    }
+
+    private void reset() {
+        servletThreadsHeld.set(0);
+        peakServletThreadsHeld.set(0);
+        savesOnServletThreads.set(0);
+    }
+
+    private static TicketRequest request() {
+        TicketRequest request = new TicketRequest();
+        request.setSubject("Cannot log in");
+        request.setDescription("The login page returns an error.");
+        return request;
+    }
+
+    private static long p99Millis(List<Long> nanos) {
+        List<Long> sorted = new ArrayList<>(nanos);
+        Collections.sort(sorted);
+        int index = (int) Math.ceil(0.99 * sorted.size()) - 1;
+        return TimeUnit.NANOSECONDS.toMillis(sorted.get(Math.max(0, index)));
+    }
+
+    private record Result(String label, int peakServletThreadsHeld, int savesOnServletThreads, long p99Millis) {
+    }
+}
@@ -0,0 +1,119 @@
+package com.tickettriage.dto;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.tickettriage.model.Ticket;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Bytes on the wire and serialization time for a 10k-ticket list response,
+ * with and without Blackbird and a sparse fieldset. Prints a small table.
+ * Timings are a rough guide (best of several runs after warm-up), not a JMH result.
+ */
+@Tag("benchmark")
+class TicketResponseSerializationBenchmarkTest {
+
+    private static final int TICKETS = 10_000;
+    private static final int WARMUP_RUNS = 5;
+    private static final int MEASURED_RUNS = 10;
+    private static final Set<String> SPARSE_FIELDS = Set.of("id", "subject", "status", "priority");
+
+    @Test
+    void reportsBytesAndSerializationTimePer10kTickets() throws IOException {
+        List<TicketResponse> responses = sampleResponses();
+        List<Map<String, Object>> sparse = responses.stream()
+                .map(response -> response.toFieldMap(SPARSE_FIELDS))
+                .collect(Collectors.toList());
+
+        ObjectMapper reflection = mapper(false);
+        ObjectMapper blackbird = mapper(true);
+
+        Result reflectionFull = measure("reflection, all fields", reflection, responses);
+        Result blackbirdFull = measure("blackbird, all fields", blackbird, responses);
+        Result blackbirdSparse = measure("blackbird, fields=" + String.join(",", SPARSE_FIELDS), blackbird, sparse);
+
+        System.out.printf("%-50s %12s %12s %10s%n", "Per 10k tickets", "raw bytes", "gzip bytes", "best ms");
+        for (Result result : List.of(reflectionFull, blackbirdFull, blackbirdSparse)) {
+            System.out.printf("%-50s %12d %12d %10.1f%n",
+                    result.label(), result.rawBytes(), result.gzipBytes(), result.bestNanos() / 1_000_000.0);
+        }
+
+        // Blackbird must not change the output, only how it is produced
+        assertThat(blackbirdFull.rawBytes()).isEqualTo(reflectionFull.rawBytes());
+        assertThat(reflectionFull.gzipBytes()).isLessThan(reflectionFull.rawBytes());
+        assertThat(blackbirdSparse.rawBytes()).isLessThan(blackbirdFull.rawBytes());
+    }
+
+    private static ObjectMapper mapper(boolean blackbird) {
+        JsonMapper.Builder builder = JsonMapper.builder()
+                .addModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        if (blackbird) {
+            builder.addModule(new BlackbirdModule());
+        }
+        return builder.build();
+    }
+
+    private static Result measure(String label, ObjectMapper mapper, Object body) throws IOException {
+        byte[] json = mapper.writeValueAsBytes(body);
+        for (int i = 0; i < WARMUP_RUNS; i++) {
+            mapper.writeValueAsBytes(body);
+        }
+
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < MEASURED_RUNS; i++) {
+            long start = System.nanoTime();
+            mapper.writeValueAsBytes(body);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return new Result(label, json.length, gzip(json).length, best);
+    }
+
+    private static byte[] gzip(byte[] data) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(data);
+        }
+        return out.toByteArray();
+    }
+
+    private static List<TicketResponse> sampleResponses() {
+        LocalDateTime now = LocalDateTime.of(2024, 1, 1, 12, 0);
+        List<TicketResponse> responses = new ArrayList<>(TICKETS);
+        for (int i = 0; i < TICKETS; i++) {
+            Ticket ticket = new Ticket();
+            ticket.setId((long) i);
+            ticket.setSubject("Cannot log in after password reset #" + i);
+            ticket.setDescription(("After resetting my password the login page keeps returning error "
+                    + (i % 97) + ". I tried two browsers and cleared cookies. ").repeat(8));
+            ticket.setTenantId("tenant-" + (i % 20));
+            ticket.setStatus(Ticket.TicketStatus.CLASSIFIED);
+            ticket.setCategory(Ticket.Category.values()[i % Ticket.Category.values().length]);
+            ticket.setPriority(Ticket.Priority.values()[i % Ticket.Priority.values().length]);
+            ticket.setSentiment(1 + i % 10);
+            ticket.setCreatedAt(now.minusMinutes(i));
+            ticket.setUpdatedAt(now);
+            responses.add(TicketResponse.from(ticket));
+        }
+        return responses;
+    }
+
+    private record Result(String label, int rawBytes, int gzipBytes, long bestNanos) {
+    }
+}
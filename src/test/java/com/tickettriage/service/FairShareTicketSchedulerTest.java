@@ -0,0 +1,208 @@
+package com.tickettriage.service;
+
+import com.tickettriage.config.FairQueueProperties;
+import com.tickettriage.event.TicketClassificationEvent;
+import com.tickettriage.exception.ClassificationQueueFullException;
+import com.tickettriage.model.Ticket;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class FairShareTicketSchedulerTest {
+
+    private FairQueueProperties properties;
+    private FairShareTicketScheduler scheduler;
+    private long nextTicketId;
+
+    @BeforeEach
+    void setUp() {
+        properties = new FairQueueProperties();
+        properties.setDefaultQuota(1000);
+        properties.setMaxQueued(10_000);
+        // Dispatcher thread is not started; tests drive takeNext() directly
+        scheduler = new FairShareTicketScheduler(
+                mock(AsyncTicketProcessor.class), mock(ThreadPoolTaskExecutor.class), properties);
+    }
+
+    @Test
+    void dispatchesInProportionToWeights() throws InterruptedException {
+        properties.setWeights(Map.of("a", 3, "b", 1));
+        submit("a", 100);
+        submit("b", 100);
+
+        List<String> order = take(40);
+
+        assertThat(order).filteredOn("a"::equals).hasSize(30);
+        assertThat(order).filteredOn("b"::equals).hasSize(10);
+    }
+
+    @Test
+    void noisyTenantDoesNotStarveOthers() throws InterruptedException {
+        submit("noisy", 500);
+        submit("quiet", 2);
+
+        // Equal weights: quiet's tickets are interleaved, not behind all 500
+        assertThat(take(4)).containsExactly("noisy", "quiet", "noisy", "quiet");
+    }
+
+    @Test
+    void drainedTenantDoesNotBankCredit() throws InterruptedException {
+        properties.setWeights(Map.of("a", 3, "b", 1));
+        submit("a", 1);
+        assertThat(take(1)).containsExactly("a");
+
+        submit("b", 4);
+        submit("a", 4);
+
+        // If a had kept its 2 leftover credits it would be served before b
+        assertThat(take(4)).containsExactly("b", "a", "a", "a");
+    }
+
+    @Test
+    void rejectsTenantOverQuota() {
+        properties.setDefaultQuota(2);
+        submit("a", 2);
+
+        assertThatThrownBy(() -> submit("a", 1)).isInstanceOf(ClassificationQueueFullException.class);
+        assertThat(scheduler.hasCapacity("a")).isFalse();
+        assertThat(scheduler.hasCapacity("b")).isTrue();
+        assertThat(scheduler.snapshot().get("a").getRejected()).isEqualTo(1);
+    }
+
+    @Test
+    void perTenantQuotaOverridesDefault() {
+        properties.setDefaultQuota(1);
+        properties.setQuotas(Map.of("big", 3));
+
+        submit("big", 3);
+
+        assertThatThrownBy(() -> submit("big", 1)).isInstanceOf(ClassificationQueueFullException.class);
+    }
+
+    @Test
+    void rejectsAnyTenantOnceGlobalCapIsReached() {
+        properties.setMaxQueued(3);
+        submit("a", 2);
+        submit("b", 1);
+
+        assertThat(scheduler.hasCapacity("c")).isFalse();
+        assertThatThrownBy(() -> submit("c", 1)).isInstanceOf(ClassificationQueueFullException.class);
+    }
+
+    @Test
+    void queuesOnlyAfterCommitAndReleasesOnRollback() throws InterruptedException {
+        properties.setDefaultQuota(1);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            submit("a", 1);
+            // Reserved but not yet visible to the dispatcher
+            assertThat(scheduler.snapshot().get("a").getQueued()).isZero();
+            assertThat(scheduler.hasCapacity("a")).isFalse();
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(sync -> {
+                sync.afterCommit();
+                sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+            });
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertThat(take(1)).containsExactly("a");
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            submit("a", 1);
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertThat(scheduler.hasCapacity("a")).isTrue();
+        assertThat(scheduler.snapshot().get("a").getQueued()).isZero();
+    }
+
+    @Test
+    void unknownTenantsShareTheDefaultQueue() {
+        properties.setTenants(Set.of("acme"));
+        properties.setWeights(Map.of("globex", 2));
+
+        assertThat(properties.resolveTenant("acme")).isEqualTo("acme");
+        assertThat(properties.resolveTenant("globex")).isEqualTo("globex");
+        assertThat(properties.resolveTenant("made-up-" + System.nanoTime())).isEqualTo(Ticket.DEFAULT_TENANT);
+        assertThat(properties.resolveTenant(" ")).isEqualTo(Ticket.DEFAULT_TENANT);
+        assertThat(properties.resolveTenant(null)).isEqualTo(Ticket.DEFAULT_TENANT);
+    }
+
+    @Test
+    void dispatchesQueuedTicketsBeforeShutdown() throws InterruptedException {
+        AsyncTicketProcessor processor = mock(AsyncTicketProcessor.class);
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(1);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        executor.initialize();
+        scheduler = new FairShareTicketScheduler(processor, executor, properties);
+        scheduler.start();
+
+        submit("a", 50);
+        scheduler.stop();
+        executor.shutdown();
+
+        verify(processor, times(50)).handleTicketClassification(any());
+    }
+
+    @Test
+    void dispatcherSurvivesUnexpectedExceptions() throws InterruptedException {
+        AsyncTicketProcessor processor = mock(AsyncTicketProcessor.class);
+        ThreadPoolTaskExecutor executor = mock(ThreadPoolTaskExecutor.class);
+        when(executor.getCorePoolSize()).thenReturn(1);
+        doThrow(new IllegalStateException("boom"))
+                .doAnswer(invocation -> {
+                    invocation.<Runnable>getArgument(0).run();
+                    return null;
+                })
+                .when(executor).execute(any(Runnable.class));
+        scheduler = new FairShareTicketScheduler(processor, executor, properties);
+        scheduler.start();
+        try {
+            submit("a", 2);
+
+            verify(processor, timeout(2000)).handleTicketClassification(nextTicketId - 1);
+        } finally {
+            scheduler.stop();
+        }
+    }
+
+    private void submit(String tenantId, int count) {
+        for (int i = 0; i < count; i++) {
+            scheduler.handleTicketClassification(new TicketClassificationEvent(this, nextTicketId++, tenantId));
+        }
+    }
+
+    private List<String> take(int count) throws InterruptedException {
+        List<String> tenants = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            tenants.add(scheduler.takeNext().tenantId());
+        }
+        return tenants;
+    }
+}
@@ -0,0 +1,101 @@
+package com.tickettriage.service;
+
+import com.tickettriage.model.Ticket;
+import okhttp3.OkHttpClient;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GeminiClassificationServiceTest {
+
+    private static final String FAST = "fast-model";
+    private static final String STRONG = "strong-model";
+
+    private ModelLatencyTracker tracker;
+    private GeminiClassificationService service;
+
+    @BeforeEach
+    void setUp() {
+        tracker = new ModelLatencyTracker();
+        service = new GeminiClassificationService(new OkHttpClient(), tracker, new TicketLogSampler());
+        ReflectionTestUtils.setField(service, "fastModel", FAST);
+        ReflectionTestUtils.setField(service, "strongModel", STRONG);
+        ReflectionTestUtils.setField(service, "simpleMaxChars", 600);
+        ReflectionTestUtils.setField(service, "targetCostPerTicket", 0.0);
+    }
+
+    @Test
+    void usesBaseThresholdUntilBothModelsHaveSamples() {
+        record(FAST, 100, 0.0, 50);
+
+        assertThat(service.routingThresholdChars()).isEqualTo(600);
+    }
+
+    @Test
+    void routesByLengthAgainstThreshold() {
+        assertThat(service.selectModel(ticketOfLength(600))).isEqualTo(FAST);
+        assertThat(service.selectModel(ticketOfLength(601))).isEqualTo(STRONG);
+    }
+
+    @Test
+    void fasterFastModelRaisesThreshold() {
+        record(FAST, 100, 0.0, 50);
+        record(STRONG, 150, 0.0, 50);
+
+        assertThat(service.routingThresholdChars()).isEqualTo(900);
+    }
+
+    @Test
+    void slowFastModelLowersThresholdDownToHalf() {
+        record(FAST, 1000, 0.0, 50);
+        record(STRONG, 100, 0.0, 50);
+
+        assertThat(service.routingThresholdChars()).isEqualTo(300);
+    }
+
+    @Test
+    void overspendingRaisesThreshold() {
+        ReflectionTestUtils.setField(service, "targetCostPerTicket", 0.5);
+        record(FAST, 100, 0.75, 50);
+        record(STRONG, 100, 0.75, 50);
+
+        // Same latency, cost per ticket 1.5x target
+        assertThat(service.routingThresholdChars()).isEqualTo(900);
+    }
+
+    @Test
+    void cancelledHedgesCountTowardsCostPerTicket() {
+        ReflectionTestUtils.setField(service, "targetCostPerTicket", 0.5);
+        record(FAST, 100, 0.5, 50);
+        record(STRONG, 100, 0.5, 50);
+        for (int i = 0; i < 50; i++) {
+            tracker.recordCensored(FAST, 100, 0.25);
+        }
+
+        // 62.5 spent over 100 answered tickets: 1.25x target
+        assertThat(service.routingThresholdChars()).isEqualTo(750);
+    }
+
+    @Test
+    void costIncludesOutputTokens() {
+        ReflectionTestUtils.setField(service, "fastCostPerMillionTokens", 1.0);
+
+        assertThat(service.estimateCost(FAST, 250_000, 0)).isEqualTo(0.25);
+        assertThat(service.estimateCost(FAST, 250_000, 250_000)).isEqualTo(0.5);
+    }
+
+    private void record(String model, long latencyMs, double cost, int times) {
+        for (int i = 0; i < times; i++) {
+            tracker.recordSuccess(model, latencyMs, cost);
+        }
+    }
+
+    private static Ticket ticketOfLength(int length) {
+        Ticket ticket = new Ticket();
+        ticket.setSubject("s");
+        ticket.setDescription("d".repeat(length - 1));
+        return ticket;
+    }
+}
@@ -0,0 +1,84 @@
+package com.tickettriage.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HedgeBudgetTest {
+
+    @Test
+    void allowsNoHedgesBeforeAnyRequests() {
+        HedgeBudget budget = new HedgeBudget();
+
+        assertThat(budget.tryAcquire(0.05)).isFalse();
+    }
+
+    @Test
+    void capsHedgesAtMaxRateOfRequests() {
+        HedgeBudget budget = new HedgeBudget();
+        int granted = 0;
+
+        for (int i = 0; i < 100; i++) {
+            budget.recordRequest();
+            if (budget.tryAcquire(0.05)) {
+                granted++;
+            }
+        }
+
+        assertThat(granted).isEqualTo(5);
+    }
+
+    @Test
+    void quietPeriodDoesNotBankHedgesForALaterSlowdown() {
+        HedgeBudget budget = new HedgeBudget();
+        for (int i = 0; i < 10_000; i++) {
+            budget.recordRequest();
+        }
+
+        int granted = 0;
+        for (int i = 0; i < 100; i++) {
+            budget.recordRequest();
+            if (budget.tryAcquire(0.05)) {
+                granted++;
+            }
+        }
+
+        // Every slow request asks for a hedge; only the burst plus 5% are granted
+        assertThat(granted).isLessThanOrEqualTo((int) HedgeBudget.MAX_BURST + 5);
+    }
+
+    @Test
+    void capHoldsUnderConcurrentAcquires() throws Exception {
+        HedgeBudget budget = new HedgeBudget();
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        List<Future<Integer>> results = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            results.add(pool.submit(() -> {
+                int granted = 0;
+                for (int i = 0; i < 1000; i++) {
+                    budget.recordRequest();
+                    if (budget.tryAcquire(0.05)) {
+                        granted++;
+                    }
+                }
+                return granted;
+            }));
+        }
+
+        int total = 0;
+        for (Future<Integer> result : results) {
+            total += result.get();
+        }
+        pool.shutdown();
+        pool.awaitTermination(5, TimeUnit.SECONDS);
+
+        assertThat(total).isLessThanOrEqualTo(400);
+    }
+}
@@ -0,0 +1,124 @@
+package com.tickettriage.service;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.FileAppender;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Ticket throughput on the caller side with logging off, synchronous file
+ * logging, the async appender from logback-spring.xml, and async plus
+ * per-ticket sampling. Each simulated ticket makes the eight INFO calls the
+ * hot path used to make. Prints a small table; timings are a rough guide.
+ */
+@Tag("benchmark")
+class LoggingThroughputBenchmarkTest {
+
+    private static final int THREADS = 4;
+    private static final int TICKETS_PER_THREAD = 5_000;
+    private static final int LOG_CALLS_PER_TICKET = 8;
+
+    @TempDir
+    Path logDir;
+
+    @Test
+    void reportsTicketThroughputWithAndWithoutLogging() throws Exception {
+        TicketLogSampler sampler = new TicketLogSampler();
+        ReflectionTestUtils.setField(sampler, "sampleRate", 0.05);
+
+        Result off = run("logging off", Level.OFF, false, null);
+        Result sync = run("sync file appender", Level.INFO, false, null);
+        Result async = run("async appender", Level.INFO, true, null);
+        Result sampled = run("async appender, 5% ticket sampling", Level.INFO, true, sampler);
+
+        System.out.printf("%-40s %14s %12s%n", "Mode", "tickets/sec", "log bytes");
+        for (Result result : List.of(off, sync, async, sampled)) {
+            System.out.printf("%-40s %14.0f %12d%n", result.label(), result.ticketsPerSecond(), result.logBytes());
+        }
+
+        assertThat(off.logBytes()).isZero();
+        assertThat(sync.logBytes()).isPositive();
+        assertThat(sampled.logBytes()).isLessThan(sync.logBytes());
+    }
+
+    private Result run(String label, Level level, boolean async, TicketLogSampler sampler) throws Exception {
+        LoggerContext context = new LoggerContext();
+        Path file = logDir.resolve(label.replaceAll("\\W+", "-") + ".log");
+
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern("%d %5p [%X{ticketId:-}] %logger - %msg%n");
+        encoder.start();
+
+        FileAppender<ILoggingEvent> fileAppender = new FileAppender<>();
+        fileAppender.setContext(context);
+        fileAppender.setFile(file.toString());
+        fileAppender.setEncoder(encoder);
+        fileAppender.start();
+
+        Appender<ILoggingEvent> appender = fileAppender;
+        if (async) {
+            AsyncAppender asyncAppender = new AsyncAppender();
+            asyncAppender.setContext(context);
+            asyncAppender.setQueueSize(8192);
+            asyncAppender.setNeverBlock(true);
+            asyncAppender.addAppender(fileAppender);
+            asyncAppender.start();
+            appender = asyncAppender;
+        }
+
+        Logger logger = context.getLogger("com.tickettriage.bench");
+        logger.setAdditive(false);
+        logger.setLevel(level);
+        logger.addAppender(appender);
+
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> futures = new ArrayList<>();
+        long start = System.nanoTime();
+        for (int t = 0; t < THREADS; t++) {
+            long firstId = (long) t * TICKETS_PER_THREAD;
+            futures.add(pool.submit(() -> {
+                for (long id = firstId; id < firstId + TICKETS_PER_THREAD; id++) {
+                    if (sampler == null || sampler.isSampled(id)) {
+                        for (int call = 0; call < LOG_CALLS_PER_TICKET; call++) {
+                            logger.info("Ticket {} phase {} - Category: {}, Priority: {}", id, call, "BUG", "HIGH");
+                        }
+                    }
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        long elapsedNanos = System.nanoTime() - start;
+        pool.shutdown();
+        pool.awaitTermination(5, TimeUnit.SECONDS);
+
+        context.stop(); // Drains the async queue and closes the file
+        double ticketsPerSecond = THREADS * TICKETS_PER_THREAD / (elapsedNanos / 1_000_000_000.0);
+        long logBytes = Files.exists(file) ? Files.size(file) : 0;
+        return new Result(label, ticketsPerSecond, logBytes);
+    }
+
+    private record Result(String label, double ticketsPerSecond, long logBytes) {
+    }
+}
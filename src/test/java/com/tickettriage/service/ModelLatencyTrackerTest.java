@@ -0,0 +1,79 @@
+package com.tickettriage.service;
+
+import com.tickettriage.dto.ModelStatsResponse;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ModelLatencyTrackerTest {
+
+    private static final String MODEL = "gemini-test";
+
+    private final ModelLatencyTracker tracker = new ModelLatencyTracker();
+
+    @Test
+    void unknownModelHasNoLatency() {
+        assertThat(tracker.p95LatencyMs(MODEL)).isZero();
+        assertThat(tracker.sampleCount(MODEL)).isZero();
+    }
+
+    @Test
+    void computesNearestRankPercentiles() {
+        for (int latency = 1; latency <= 100; latency++) {
+            tracker.recordSuccess(MODEL, latency, 0.0);
+        }
+
+        ModelStatsResponse stats = tracker.snapshot().get(MODEL);
+        assertThat(stats.getP50LatencyMs()).isEqualTo(50);
+        assertThat(stats.getP95LatencyMs()).isEqualTo(95);
+        assertThat(tracker.p95LatencyMs(MODEL)).isEqualTo(95);
+    }
+
+    @Test
+    void windowKeepsOnlyTheMostRecentSamples() {
+        for (int latency = 1; latency <= 300; latency++) {
+            tracker.recordSuccess(MODEL, latency, 0.0);
+        }
+
+        // Window holds 101..300
+        ModelStatsResponse stats = tracker.snapshot().get(MODEL);
+        assertThat(tracker.sampleCount(MODEL)).isEqualTo(200);
+        assertThat(stats.getP50LatencyMs()).isEqualTo(200);
+        assertThat(stats.getP95LatencyMs()).isEqualTo(290);
+        assertThat(stats.getRequests()).isEqualTo(300);
+    }
+
+    @Test
+    void censoredSamplesRaiseP95WithoutCountingAsRequests() {
+        for (int i = 0; i < 90; i++) {
+            tracker.recordSuccess(MODEL, 100, 0.0);
+        }
+        for (int i = 0; i < 10; i++) {
+            tracker.recordCensored(MODEL, 5000, 0.0);
+        }
+
+        ModelStatsResponse stats = tracker.snapshot().get(MODEL);
+        assertThat(stats.getP95LatencyMs()).isEqualTo(5000);
+        assertThat(stats.getRequests()).isEqualTo(90);
+        assertThat(stats.getCancelledRequests()).isEqualTo(10);
+    }
+
+    @Test
+    void cancelledCallsAddToCost() {
+        tracker.recordSuccess(MODEL, 100, 0.25);
+        tracker.recordCensored(MODEL, 500, 0.5);
+
+        assertThat(tracker.successfulRequests(MODEL)).isEqualTo(1);
+        assertThat(tracker.estimatedCost(MODEL)).isEqualTo(0.75);
+    }
+
+    @Test
+    void failuresCountAsRequestsButNotSuccesses() {
+        tracker.recordSuccess(MODEL, 100, 0.25);
+        tracker.recordFailure(MODEL);
+
+        assertThat(tracker.successfulRequests(MODEL)).isEqualTo(1);
+        assertThat(tracker.estimatedCost(MODEL)).isEqualTo(0.25);
+        assertThat(tracker.snapshot().get(MODEL).getFailures()).isEqualTo(1);
+    }
+}